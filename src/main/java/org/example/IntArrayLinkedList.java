@@ -0,0 +1,389 @@
+package org.example;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Компактная реализация двусвязного списка, в которой узлы хранятся не как
+ * отдельные объекты в куче, а как индексы в параллельных массивах {@code int[]}.
+ * Значения элементов и ссылки на соседей (next/prev) лежат в непрерывных
+ * участках памяти, поэтому переход по ссылке не требует разыменования
+ * указателя на произвольный объект.
+ *
+ * <p>Освободившиеся при удалении ячейки объединяются в список свободных ячеек
+ * и переиспользуются при последующих вставках.
+ *
+ * <p>Используется в {@link ListPerformanceComparison} для сравнения
+ * "указательной" ({@link LinkedList}) и "массивной" раскладки связного списка.
+ * Значения {@code null} не поддерживаются.
+ *
+ * <p>Методы интерфейса {@link List} ({@link #get(int)}, итераторы) упаковывают
+ * значение в {@link Integer} при каждом чтении, и для значений вне кэша
+ * {@link Integer#valueOf(int)} это выделение нового объекта. Для перебора
+ * без упаковки предназначен {@link #forEachInt(IntConsumer)}.
+ *
+ * @author Анастасия
+ * @version 1.0
+ * @see LinkedList
+ * @see ListPerformanceComparison#compareMemoryLayouts()
+ */
+public class IntArrayLinkedList extends AbstractList<Integer> {
+    /** Признак отсутствия соседнего узла */
+    private static final int NIL = -1;
+
+    /** Начальная ёмкость массивов узлов */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Значения элементов, индекс ячейки - номер узла */
+    private int[] values;
+
+    /** Индекс следующего узла (или следующей свободной ячейки) */
+    private int[] next;
+
+    /** Индекс предыдущего узла */
+    private int[] prev;
+
+    /** Индекс первого узла списка */
+    private int head = NIL;
+
+    /** Индекс последнего узла списка */
+    private int tail = NIL;
+
+    /** Начало списка свободных ячеек */
+    private int free = NIL;
+
+    /** Количество ячеек, которые когда-либо были заняты */
+    private int used;
+
+    /** Количество элементов в списке */
+    private int size;
+
+    /**
+     * Создаёт пустой список с ёмкостью по умолчанию.
+     */
+    public IntArrayLinkedList() {
+        values = new int[DEFAULT_CAPACITY];
+        next = new int[DEFAULT_CAPACITY];
+        prev = new int[DEFAULT_CAPACITY];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает элемент по позиции. Значение упаковывается в {@link Integer} при каждом вызове.
+     *
+     * @param index позиция элемента
+     * @return элемент списка
+     */
+    @Override
+    public Integer get(int index) {
+        return values[node(index)];
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        int node = node(index);
+        int oldValue = values[node];
+        values[node] = Objects.requireNonNull(element);
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(Integer element) {
+        linkBefore(NIL, Objects.requireNonNull(element));
+        return true;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Objects.requireNonNull(element);
+        linkBefore(index == size ? NIL : node(index), element);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        int node = node(index);
+        int oldValue = values[node];
+        unlink(node);
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        head = NIL;
+        tail = NIL;
+        free = NIL;
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Возвращает итератор, который проходит по цепочке индексов {@code next}
+     * без повторного поиска узла по позиции.
+     *
+     * @return итератор по элементам списка в порядке следования
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Возвращает списковый итератор, начинающий обход с указанной позиции.
+     * Вставка и удаление через итератор выполняются за O(1).
+     *
+     * @param index позиция первого элемента, который вернёт {@link ListIterator#next()}
+     * @return списковый итератор
+     * @throws IndexOutOfBoundsException если позиция вне диапазона [0, size]
+     */
+    @Override
+    public ListIterator<Integer> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new ListItr(index);
+    }
+
+    /**
+     * Передаёт каждое значение списка в порядке следования, не упаковывая его в {@link Integer}.
+     *
+     * @param action действие, выполняемое для каждого значения
+     */
+    public void forEachInt(IntConsumer action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int node = head; node != NIL; node = next[node]) {
+            action.accept(values[node]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Находит номер узла по позиции элемента, начиная обход с ближайшего конца списка.
+     *
+     * @param index позиция элемента
+     * @return номер ячейки узла
+     * @throws IndexOutOfBoundsException если позиция вне диапазона [0, size)
+     */
+    private int node(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int node;
+        if (index < (size >> 1)) {
+            node = head;
+            for (int i = 0; i < index; i++) {
+                node = next[node];
+            }
+        } else {
+            node = tail;
+            for (int i = size - 1; i > index; i--) {
+                node = prev[node];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Вставляет значение перед указанным узлом.
+     *
+     * @param successor узел, перед которым выполняется вставка, или {@link #NIL} для вставки в конец
+     * @param value вставляемое значение
+     */
+    private void linkBefore(int successor, int value) {
+        int node = allocate();
+        int predecessor = successor == NIL ? tail : prev[successor];
+
+        values[node] = value;
+        next[node] = successor;
+        prev[node] = predecessor;
+
+        if (predecessor == NIL) {
+            head = node;
+        } else {
+            next[predecessor] = node;
+        }
+        if (successor == NIL) {
+            tail = node;
+        } else {
+            prev[successor] = node;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Исключает узел из цепочки и возвращает его ячейку в список свободных.
+     *
+     * @param node номер удаляемого узла
+     */
+    private void unlink(int node) {
+        int predecessor = prev[node];
+        int successor = next[node];
+
+        if (predecessor == NIL) {
+            head = successor;
+        } else {
+            next[predecessor] = successor;
+        }
+        if (successor == NIL) {
+            tail = predecessor;
+        } else {
+            prev[successor] = predecessor;
+        }
+
+        next[node] = free;
+        free = node;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Выделяет ячейку под новый узел: сначала из списка свободных,
+     * затем из неиспользованного хвоста массивов, расширяя их при необходимости.
+     *
+     * @return номер выделенной ячейки
+     */
+    private int allocate() {
+        if (free != NIL) {
+            int node = free;
+            free = next[node];
+            return node;
+        }
+        if (used == values.length) {
+            int newCapacity = values.length + (values.length >> 1);
+            values = Arrays.copyOf(values, newCapacity);
+            next = Arrays.copyOf(next, newCapacity);
+            prev = Arrays.copyOf(prev, newCapacity);
+        }
+        return used++;
+    }
+
+    /**
+     * Списковый итератор, переходящий по индексам {@code next} и {@code prev}.
+     */
+    private class ListItr implements ListIterator<Integer> {
+        /** Узел, который будет возвращён методом next(), или {@code NIL} в конце списка */
+        private int nextNode;
+
+        /** Позиция узла nextNode */
+        private int nextIndex;
+
+        /** Последний возвращённый узел */
+        private int lastReturned = NIL;
+
+        /** Ожидаемое значение modCount для обнаружения параллельных изменений */
+        private int expectedModCount = modCount;
+
+        /**
+         * Создаёт итератор, установленный перед элементом с указанной позицией.
+         *
+         * @param index позиция в диапазоне [0, size]
+         */
+        ListItr(int index) {
+            nextNode = index == size ? NIL : node(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public Integer next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = nextNode;
+            nextNode = next[nextNode];
+            nextIndex++;
+            return values[lastReturned];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public Integer previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            nextNode = nextNode == NIL ? tail : prev[nextNode];
+            lastReturned = nextNode;
+            nextIndex--;
+            return values[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            // unlink() переиспользует next[] для списка свободных ячеек, поэтому соседа запоминаем заранее
+            int lastNext = next[lastReturned];
+            unlink(lastReturned);
+            if (nextNode == lastReturned) {
+                nextNode = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(Integer element) {
+            if (lastReturned == NIL) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            values[lastReturned] = Objects.requireNonNull(element);
+        }
+
+        @Override
+        public void add(Integer element) {
+            checkForComodification();
+            Objects.requireNonNull(element);
+            lastReturned = NIL;
+            linkBefore(nextNode, element);
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Проверяет, что список не изменялся в обход итератора.
+         *
+         * @throws ConcurrentModificationException если список был изменён
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.example;
 
 import java.util.*;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 /**
  * Класс для сравнительного анализа производительности операций
@@ -17,16 +19,51 @@ import java.util.*;
  *   <li>Итерация по всем элементам</li>
  * </ul>
  *
+ * <p>Дополнительно проводится исследование влияния раскладки узлов в памяти
+ * на итерацию и случайный доступ: списки заполняются как последовательно,
+ * так и в "фрагментированном" режиме, имитирующем разбросанные по куче узлы.
+ *
  * @author Анастасия
  * @version 1.0
  * @see ArrayList
  * @see LinkedList
+ * @see IntArrayLinkedList
  * @see Main
  */
 public class ListPerformanceComparison {
     /** Количество операций для каждого теста производительности */
     private static final int OPERATIONS_COUNT = 10000;
 
+    /**
+     * Количество элементов в списках исследования раскладок. Выбрано так, чтобы узлы
+     * LinkedList (вместе с объектами Integer) заметно превышали объём кэшей L2/L3.
+     */
+    static final int LAYOUT_ELEMENTS_COUNT = 500_000;
+
+    /** Количество случайных get за один замер; ограничено, так как get у связных списков стоит O(n) */
+    static final int LAYOUT_GET_COUNT = 50;
+
+    /** Количество прогревочных (не учитываемых) прогонов каждого замера */
+    private static final int WARMUP_ROUNDS = 3;
+
+    /** Количество учитываемых прогонов каждого замера; в результат идёт медиана */
+    private static final int MEASURE_ROUNDS = 5;
+
+    /** Максимальный шаг курсора между вставками во фрагментированном режиме */
+    private static final int MAX_CURSOR_STEP = 64;
+
+    /** Количество "мусорных" объектов, выделяемых между вставками во фрагментированном режиме */
+    private static final int GARBAGE_PER_ELEMENT = 2;
+
+    /** Размер одного "мусорного" объекта в байтах */
+    private static final int GARBAGE_SIZE = 32;
+
+    /** Зерно генератора случайных чисел, чтобы все раскладки получали одинаковые позиции и индексы */
+    private static final long SEED = 42L;
+
+    /** Поле, в которое сохраняются результаты замеряемой работы, чтобы JIT не мог её удалить */
+    static volatile long sink;
+
     /**
      * Основной метод сравнения производительности ArrayList и LinkedList.
      * Выполняет идентичные тесты для обеих реализаций интерфейса List
@@ -51,6 +88,217 @@ public class ListPerformanceComparison {
         return allResults;
     }
 
+    /**
+     * Сравнивает стоимость итерации и случайного доступа для разных раскладок
+     * списка в памяти: непрерывной ({@link ArrayList}), указательной ({@link LinkedList})
+     * и связной на массивах индексов ({@link IntArrayLinkedList}).
+     *
+     * <p>Каждая реализация замеряется в двух режимах: после последовательного заполнения,
+     * когда узлы LinkedList лежат в памяти подряд, и после фрагментированного заполнения,
+     * когда порядок обхода не совпадает с порядком выделения памяти.
+     *
+     * @return список результатов замеров для всех реализаций и режимов заполнения
+     *
+     * @see #LAYOUT_ELEMENTS_COUNT
+     * @see #fillSequential(List, int)
+     * @see #fillFragmented(List, int)
+     */
+    public static List<TestResult> compareMemoryLayouts() {
+        return compareMemoryLayouts(LAYOUT_ELEMENTS_COUNT);
+    }
+
+    /**
+     * Выполняет исследование раскладок для списков заданного размера.
+     *
+     * @param elementsCount количество элементов в каждом списке
+     * @return список результатов замеров для всех реализаций и режимов заполнения
+     */
+    static List<TestResult> compareMemoryLayouts(int elementsCount) {
+        List<TestResult> results = new ArrayList<>();
+
+        results.addAll(performLayoutTests(ArrayList::new, elementsCount));
+        results.addAll(performLayoutTests(LinkedList::new, elementsCount));
+        results.addAll(performLayoutTests(IntArrayLinkedList::new, elementsCount));
+
+        return results;
+    }
+
+    /**
+     * Выполняет замеры итерации и случайного доступа для одной реализации List
+     * в последовательном и фрагментированном режимах заполнения.
+     * Оба списка заполняются один раз и используются во всех прогонах.
+     *
+     * @param factory фабрика пустых списков тестируемой реализации
+     * @param elementsCount количество элементов в каждом списке
+     * @return список результатов замеров для данной реализации
+     *
+     * @see #measureAlternating(List, List, ToLongFunction)
+     */
+    private static List<TestResult> performLayoutTests(Supplier<List<Integer>> factory, int elementsCount) {
+        List<TestResult> results = new ArrayList<>();
+        List<Integer> sequential = fillSequential(factory.get(), elementsCount);
+        List<Integer> fragmented = fillFragmented(factory.get(), elementsCount);
+        String listType = sequential.getClass().getSimpleName();
+
+        long[] iteration = measureAlternating(sequential, fragmented, ListPerformanceComparison::measureIteration);
+        long[] randomGet = measureAlternating(sequential, fragmented, ListPerformanceComparison::measureRandomGet);
+
+        results.add(new TestResult(listType, "iteration(подряд)", iteration[0], elementsCount));
+        results.add(new TestResult(listType, "iteration(фрагмент.)", iteration[1], elementsCount));
+        results.add(new TestResult(listType, "get(случ., подряд)", randomGet[0], LAYOUT_GET_COUNT));
+        results.add(new TestResult(listType, "get(случ., фрагмент.)", randomGet[1], LAYOUT_GET_COUNT));
+
+        return results;
+    }
+
+    /**
+     * Выполняет замер для последовательно и фрагментированно заполненных списков.
+     * Сначала оба списка проходят {@link #WARMUP_ROUNDS} прогревочных прогонов,
+     * затем {@link #MEASURE_ROUNDS} учитываемых; порядок режимов в учитываемых
+     * прогонах чередуется, чтобы ни один из них не получал систематического преимущества.
+     *
+     * @param sequential последовательно заполненный список
+     * @param fragmented фрагментированно заполненный список
+     * @param measurement замер, возвращающий время одного прогона в наносекундах
+     * @return медианы времени: [0] - для последовательного, [1] - для фрагментированного списка
+     */
+    private static long[] measureAlternating(List<Integer> sequential, List<Integer> fragmented,
+                                             ToLongFunction<List<Integer>> measurement) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            measurement.applyAsLong(sequential);
+            measurement.applyAsLong(fragmented);
+        }
+
+        long[] sequentialTimes = new long[MEASURE_ROUNDS];
+        long[] fragmentedTimes = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            if (i % 2 == 0) {
+                sequentialTimes[i] = measurement.applyAsLong(sequential);
+                fragmentedTimes[i] = measurement.applyAsLong(fragmented);
+            } else {
+                fragmentedTimes[i] = measurement.applyAsLong(fragmented);
+                sequentialTimes[i] = measurement.applyAsLong(sequential);
+            }
+        }
+        return new long[] {median(sequentialTimes), median(fragmentedTimes)};
+    }
+
+    /**
+     * Вычисляет медиану набора замеров.
+     *
+     * @param times времена прогонов (массив не изменяется)
+     * @return медианное время
+     */
+    private static long median(long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Заполняет список элементами по порядку, без промежуточных выделений памяти.
+     * Узлы LinkedList при этом оказываются в памяти рядом друг с другом.
+     *
+     * @param list пустой список для заполнения
+     * @param elementsCount количество элементов
+     * @return тот же список, содержащий значения 0..elementsCount-1 по возрастанию
+     */
+    static List<Integer> fillSequential(List<Integer> list, int elementsCount) {
+        for (int i = 0; i < elementsCount; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    /**
+     * Заполняет список во фрагментированном режиме: элементы вставляются через
+     * {@link ListIterator}, курсор которого между вставками сдвигается на случайный шаг
+     * не длиннее {@link #MAX_CURSOR_STEP}, а после каждой вставки выделяются "мусорные" объекты.
+     * В результате соседние по порядку обхода узлы созданы в разное время и разнесены
+     * в памяти, как это бывает в долгоживущем приложении после чередующихся выделений.
+     * Заполнение занимает O(n * MAX_CURSOR_STEP) для связных списков.
+     *
+     * <p>Для списков с произвольным доступом вставка в середину стоит O(n), поэтому порядок
+     * строится во временном {@link LinkedList} и копируется; объекты Integer при этом
+     * сохраняют своё разбросанное расположение в памяти.
+     *
+     * @param list пустой список для заполнения
+     * @param elementsCount количество элементов
+     * @return тот же список, содержащий перестановку значений 0..elementsCount-1
+     */
+    static List<Integer> fillFragmented(List<Integer> list, int elementsCount) {
+        if (list instanceof RandomAccess) {
+            list.addAll(fillFragmented(new LinkedList<>(), elementsCount));
+            return list;
+        }
+
+        Random random = new Random(SEED);
+        // Мусор удерживается до конца заполнения, чтобы узлы не заняли освободившееся место подряд
+        List<byte[]> garbage = new ArrayList<>(elementsCount * GARBAGE_PER_ELEMENT);
+        ListIterator<Integer> cursor = list.listIterator();
+        for (int i = 0; i < elementsCount; i++) {
+            int step = random.nextInt(2 * MAX_CURSOR_STEP + 1) - MAX_CURSOR_STEP;
+            for (; step > 0 && cursor.hasNext(); step--) {
+                cursor.next();
+            }
+            for (; step < 0 && cursor.hasPrevious(); step++) {
+                cursor.previous();
+            }
+            cursor.add(i);
+            for (int j = 0; j < GARBAGE_PER_ELEMENT; j++) {
+                garbage.add(new byte[GARBAGE_SIZE]);
+            }
+        }
+        garbage.clear();
+        return list;
+    }
+
+    /**
+     * Замеряет время полного перебора уже заполненного списка.
+     * Сумма элементов сохраняется в {@link #sink}, чтобы перебор не был удалён JIT-компилятором.
+     * {@link IntArrayLinkedList} перебирается через {@link IntArrayLinkedList#forEachInt},
+     * чтобы замер не включал упаковку значений в Integer.
+     *
+     * @param list заполненный список
+     * @return время выполнения в наносекундах
+     */
+    private static long measureIteration(List<Integer> list) {
+        long startTime = System.nanoTime();
+        long sum = 0;
+        if (list instanceof IntArrayLinkedList intList) {
+            long[] total = new long[1];
+            intList.forEachInt(value -> total[0] += value);
+            sum = total[0];
+        } else {
+            for (Integer num : list) {
+                sum += num;
+            }
+        }
+        long time = System.nanoTime() - startTime;
+        sink = sum;
+        return time;
+    }
+
+    /**
+     * Замеряет время получения {@link #LAYOUT_GET_COUNT} случайных элементов уже заполненного списка.
+     * Последовательность индексов одинакова для всех реализаций, сумма полученных
+     * значений сохраняется в {@link #sink}.
+     *
+     * @param list заполненный список
+     * @return время выполнения в наносекундах
+     */
+    private static long measureRandomGet(List<Integer> list) {
+        Random random = new Random(SEED);
+        long startTime = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < LAYOUT_GET_COUNT; i++) {
+            sum += list.get(random.nextInt(list.size()));
+        }
+        long time = System.nanoTime() - startTime;
+        sink = sum;
+        return time;
+    }
+
     /**
      * Выполняет полный набор тестов производительности для конкретной реализации List.
      *
@@ -308,6 +556,9 @@ public class ListPerformanceComparison {
         /** Время выполнения операции в наносекундах */
         long time;
 
+        /** Количество операций, выполненных за время {@link #time} */
+        int operationsCount;
+
         /**
          * Конструктор для создания объекта результата теста.
          *
@@ -316,9 +567,22 @@ public class ListPerformanceComparison {
          * @param time время выполнения в наносекундах
          */
         TestResult(String listType, String operation, long time) {
+            this(listType, operation, time, OPERATIONS_COUNT);
+        }
+
+        /**
+         * Конструктор для создания объекта результата теста с явным количеством операций.
+         *
+         * @param listType тип тестируемого списка
+         * @param operation название операции
+         * @param time время выполнения в наносекундах
+         * @param operationsCount количество выполненных операций
+         */
+        TestResult(String listType, String operation, long time, int operationsCount) {
             this.listType = listType;
             this.operation = operation;
             this.time = time;
+            this.operationsCount = operationsCount;
         }
     }
 }
\ No newline at end of file
@@ -19,11 +19,13 @@ public class Main {
      * Точка входа в приложение.
      * Инициирует выполнение тестов производительности ArrayList и LinkedList,
      * затем выводит результаты в консоль в табличном формате.
+     * После этого выводит результаты исследования раскладок списков в памяти.
      *
      * @param args аргументы командной строки (не используются)
      *
      * @see #printResultsTable(List)
      * @see ListPerformanceComparison#compareArrayListAndLinkedList()
+     * @see ListPerformanceComparison#compareMemoryLayouts()
      */
     public static void main(String[] args) {
         System.out.println("СРАВНЕНИЕ ПРОИЗВОДИТЕЛЬНОСТИ ARRAYLIST И LINKEDLIST");
@@ -33,6 +35,14 @@ public class Main {
         List<ListPerformanceComparison.TestResult> results = ListPerformanceComparison.compareArrayListAndLinkedList();
 
         printResultsTable(results);
+
+        System.out.println();
+        System.out.println("ВЛИЯНИЕ РАСКЛАДКИ В ПАМЯТИ: ПОСЛЕДОВАТЕЛЬНОЕ И ФРАГМЕНТИРОВАННОЕ ЗАПОЛНЕНИЕ");
+        System.out.println("Количество элементов в списке: " + ListPerformanceComparison.LAYOUT_ELEMENTS_COUNT
+                + ", время - медиана нескольких прогонов после прогрева");
+        System.out.println("=".repeat(90));
+
+        printResultsTable(ListPerformanceComparison.compareMemoryLayouts());
     }
 
     /**
@@ -49,15 +59,15 @@ public class Main {
      */
     private static void printResultsTable(List<ListPerformanceComparison.TestResult> results) {
         // Заголовок таблицы
-        System.out.printf("%-15s | %-20s | %-12s | %-15s%n",
+        System.out.printf("%-18s | %-21s | %-12s | %-15s%n",
                 "Тип списка", "Метод", "Кол-во операций", "Время (мс)");
         System.out.println("-".repeat(90));
 
         // Данные результатов
         for (ListPerformanceComparison.TestResult result : results) {
             double timeMs = result.time / 1_000_000.0; // Конвертация наносекунд в миллисекунды
-            System.out.printf("%-15s | %-20s | %,12d | %,13.3f%n",
-                    result.listType, result.operation, 10000, timeMs);
+            System.out.printf("%-18s | %-21s | %,12d | %,13.3f%n",
+                    result.listType, result.operation, result.operationsCount, timeMs);
         }
     }
 }
\ No newline at end of file
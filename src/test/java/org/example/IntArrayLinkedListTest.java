@@ -0,0 +1,170 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Класс для модульного тестирования функциональности класса {@link IntArrayLinkedList}.
+ * Тесты сравнивают поведение списка с эталонной реализацией {@link LinkedList}
+ * и проверяют переиспользование освободившихся ячеек.
+ *
+ * @see IntArrayLinkedList
+ */
+class IntArrayLinkedListTest {
+
+    /**
+     * Тест проверяет, что последовательность вставок и удалений в случайные позиции
+     * приводит к тому же содержимому, что и для {@link LinkedList}.
+     *
+     * <p>Проверяемые утверждения:
+     * <ul>
+     *   <li>Размеры списков совпадают после каждой операции</li>
+     *   <li>Удаляемые элементы совпадают</li>
+     *   <li>Итоговое содержимое и доступ по индексу совпадают</li>
+     * </ul>
+     */
+    @Test
+    @DisplayName("Тест IntArrayLinkedList - совпадение с LinkedList при случайных операциях")
+    void testRandomOperations_MatchLinkedList() {
+        // Given
+        Random random = new Random(1);
+        List<Integer> expected = new LinkedList<>();
+        List<Integer> actual = new IntArrayLinkedList();
+
+        // When / Then
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.remove(index), "Удалённые элементы должны совпадать");
+            }
+            assertEquals(expected.size(), actual.size(), "Размеры списков должны совпадать");
+        }
+
+        assertEquals(expected, actual, "Содержимое списков должно совпадать");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i), "Элементы по индексу " + i + " должны совпадать");
+        }
+    }
+
+    /**
+     * Тест проверяет, что вставки и удаления через {@link ListIterator}
+     * при случайном перемещении курсора в обе стороны дают то же содержимое,
+     * что и для {@link LinkedList}.
+     */
+    @Test
+    @DisplayName("Тест IntArrayLinkedList - списковый итератор совпадает с LinkedList")
+    void testListIterator_MatchLinkedList() {
+        // Given
+        Random random = new Random(2);
+        List<Integer> expected = new LinkedList<>();
+        List<Integer> actual = new IntArrayLinkedList();
+        ListIterator<Integer> expectedCursor = expected.listIterator();
+        ListIterator<Integer> actualCursor = actual.listIterator();
+
+        // When / Then
+        for (int i = 0; i < 2000; i++) {
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    if (expectedCursor.hasNext()) {
+                        assertEquals(expectedCursor.next(), actualCursor.next(), "next() должен совпадать");
+                    }
+                }
+                case 1 -> {
+                    if (expectedCursor.hasPrevious()) {
+                        assertEquals(expectedCursor.previous(), actualCursor.previous(), "previous() должен совпадать");
+                    }
+                }
+                case 2 -> {
+                    expectedCursor.add(i);
+                    actualCursor.add(i);
+                }
+                default -> {
+                    try {
+                        expectedCursor.remove();
+                    } catch (IllegalStateException e) {
+                        assertThrows(IllegalStateException.class, actualCursor::remove);
+                        continue;
+                    }
+                    actualCursor.remove();
+                }
+            }
+            assertEquals(expectedCursor.nextIndex(), actualCursor.nextIndex(), "Позиции курсоров должны совпадать");
+        }
+
+        assertEquals(expected, actual, "Содержимое списков должно совпадать");
+    }
+
+    /**
+     * Тест проверяет, что {@link IntArrayLinkedList#forEachInt} перебирает значения
+     * в том же порядке, что и обычный итератор.
+     */
+    @Test
+    @DisplayName("Тест IntArrayLinkedList - перебор без упаковки")
+    void testForEachInt_MatchesIterator() {
+        // Given
+        IntArrayLinkedList list = new IntArrayLinkedList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i % 2 == 0 ? list.size() : 0, i);
+        }
+        List<Integer> visited = new ArrayList<>();
+
+        // When
+        list.forEachInt(visited::add);
+
+        // Then
+        assertEquals(new ArrayList<>(list), visited, "Порядок перебора должен совпадать с итератором");
+    }
+
+    /**
+     * Тест проверяет удаление элементов через итератор и повторное заполнение
+     * списка после освобождения ячеек.
+     */
+    @Test
+    @DisplayName("Тест IntArrayLinkedList - удаление через итератор и повторная вставка")
+    void testIteratorRemove_ThenRefill() {
+        // Given
+        List<Integer> list = new IntArrayLinkedList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        // When
+        list.removeIf(value -> value % 2 == 0);
+        for (int i = 0; i < 50; i++) {
+            list.add(0, -i);
+        }
+
+        // Then
+        assertEquals(100, list.size(), "Размер должен учитывать удалённые и добавленные элементы");
+        assertEquals(-49, list.get(0), "Первым должен быть последний вставленный в начало элемент");
+        assertEquals(99, list.get(list.size() - 1), "Последним должен остаться максимальный нечётный элемент");
+    }
+
+    /**
+     * Тест проверяет граничные условия: обращение по недопустимому индексу
+     * и изменение списка во время итерации.
+     */
+    @Test
+    @DisplayName("Тест IntArrayLinkedList - граничные условия")
+    void testBoundaryConditions() {
+        // Given
+        List<Integer> list = new IntArrayLinkedList();
+        list.add(1);
+
+        // Then
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, 2));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (Integer value : list) {
+                list.add(value);
+            }
+        });
+    }
+}
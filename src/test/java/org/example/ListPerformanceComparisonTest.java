@@ -3,7 +3,11 @@ package org.example;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Supplier;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -242,6 +246,83 @@ class ListPerformanceComparisonTest {
                 "Для ArrayList доступ к первому элементу должен быть быстрее случайного доступа");
     }
 
+    /**
+     * Тест проверяет, что исследование раскладок в памяти возвращает замеры
+     * итерации и случайного доступа в обоих режимах заполнения для всех трёх реализаций:
+     * ArrayList, LinkedList и IntArrayLinkedList.
+     *
+     * <p>Для скорости используется уменьшенный размер списков.
+     */
+    @Test
+    @DisplayName("Тест раскладок в памяти - все реализации и режимы заполнения")
+    void testCompareMemoryLayouts_ContainsAllLayoutsAndModes() {
+        // Given
+        String[] expectedListTypes = {"ArrayList", "LinkedList", "IntArrayLinkedList"};
+        String[] expectedOperations = {
+                "iteration(подряд)", "iteration(фрагмент.)",
+                "get(случ., подряд)", "get(случ., фрагмент.)"
+        };
+
+        int elementsCount = 20_000;
+
+        // When
+        List<ListPerformanceComparison.TestResult> results =
+                ListPerformanceComparison.compareMemoryLayouts(elementsCount);
+
+        // Then
+        assertEquals(expectedListTypes.length * expectedOperations.length, results.size(),
+                "Должен быть ровно один замер на каждую пару реализации и операции");
+        for (String listType : expectedListTypes) {
+            for (String operation : expectedOperations) {
+                ListPerformanceComparison.TestResult result = findResult(results, listType, operation);
+                assertTrue(result.time > 0,
+                        "Время выполнения должно быть положительным для " + listType + " и операции " + operation);
+                int expectedCount = operation.startsWith("iteration")
+                        ? elementsCount : ListPerformanceComparison.LAYOUT_GET_COUNT;
+                assertEquals(expectedCount, result.operationsCount,
+                        "Количество операций должно соответствовать замеру " + operation);
+            }
+        }
+    }
+
+    /**
+     * Тест проверяет, что фрагментированное заполнение даёт тот же набор элементов,
+     * что и последовательное, но в другом порядке, для всех реализаций из исследования раскладок.
+     * Именно это делает сравнение режимов честным: различается только расположение в памяти.
+     *
+     * <p>Проверяемые утверждения:
+     * <ul>
+     *   <li>Размер списка совпадает с запрошенным</li>
+     *   <li>Содержимое является перестановкой значений 0..N-1</li>
+     *   <li>Порядок элементов отличается от последовательного</li>
+     * </ul>
+     */
+    @Test
+    @DisplayName("Тест фрагментированного заполнения - перестановка тех же элементов")
+    void testFillFragmented_IsPermutationOfSequentialFill() {
+        // Given
+        int elementsCount = 20_000;
+        List<Supplier<List<Integer>>> factories =
+                List.of(ArrayList::new, LinkedList::new, IntArrayLinkedList::new);
+
+        for (Supplier<List<Integer>> factory : factories) {
+            // When
+            List<Integer> sequential = ListPerformanceComparison.fillSequential(factory.get(), elementsCount);
+            List<Integer> fragmented = ListPerformanceComparison.fillFragmented(factory.get(), elementsCount);
+
+            // Then
+            String listType = fragmented.getClass().getSimpleName();
+            assertEquals(elementsCount, fragmented.size(), "Размер должен совпадать для " + listType);
+
+            List<Integer> sorted = new ArrayList<>(fragmented);
+            Collections.sort(sorted);
+            assertEquals(sequential, sorted,
+                    "Фрагментированный список должен быть перестановкой 0..N-1 для " + listType);
+            assertNotEquals(sequential, fragmented,
+                    "Порядок элементов должен отличаться от последовательного для " + listType);
+        }
+    }
+
     /**
      * Вспомогательный метод для проверки наличия вариативности во времени выполнения
      * различных операций.